@@ -23,6 +23,9 @@ public class SslExpiryProperties {
 	@Min(100)
 	private int bulkTimeoutMs = 180000;
 
+	@Min(1)
+	private int bulkDigestCapacity = 1024;
+
 	public int getConnectTimeoutMs() {
 		return connectTimeoutMs;
 	}
@@ -62,4 +65,12 @@ public class SslExpiryProperties {
 	public void setBulkTimeoutMs(int bulkTimeoutMs) {
 		this.bulkTimeoutMs = bulkTimeoutMs;
 	}
+
+	public int getBulkDigestCapacity() {
+		return bulkDigestCapacity;
+	}
+
+	public void setBulkDigestCapacity(int bulkDigestCapacity) {
+		this.bulkDigestCapacity = bulkDigestCapacity;
+	}
 }
@@ -0,0 +1,122 @@
+package com.spa_limited.domain_ssl_checker.config;
+
+import jakarta.validation.constraints.Min;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.validation.annotation.Validated;
+
+import java.util.ArrayList;
+import java.util.List;
+
+@Validated
+@ConfigurationProperties(prefix = "ssl.notifications")
+public class SslNotificationProperties {
+
+	private List<String> webhooks = new ArrayList<>();
+
+	@Min(100)
+	private int coalesceWindowMs = 30000;
+
+	@Min(1)
+	private int queueCapacity = 10000;
+
+	@Min(1)
+	private int batchSize = 100;
+
+	@Min(1)
+	private int maxAttempts = 5;
+
+	@Min(10)
+	private int initialBackoffMs = 1000;
+
+	@Min(10)
+	private int maxBackoffMs = 60000;
+
+	@Min(100)
+	private int webhookTimeoutMs = 5000;
+
+	@Min(1)
+	private int maxTrackedEndpoints = 10000;
+
+	@Min(100)
+	private int shutdownTimeoutMs = 10000;
+
+	public List<String> getWebhooks() {
+		return webhooks;
+	}
+
+	public void setWebhooks(List<String> webhooks) {
+		this.webhooks = webhooks;
+	}
+
+	public int getCoalesceWindowMs() {
+		return coalesceWindowMs;
+	}
+
+	public void setCoalesceWindowMs(int coalesceWindowMs) {
+		this.coalesceWindowMs = coalesceWindowMs;
+	}
+
+	public int getQueueCapacity() {
+		return queueCapacity;
+	}
+
+	public void setQueueCapacity(int queueCapacity) {
+		this.queueCapacity = queueCapacity;
+	}
+
+	public int getBatchSize() {
+		return batchSize;
+	}
+
+	public void setBatchSize(int batchSize) {
+		this.batchSize = batchSize;
+	}
+
+	public int getMaxAttempts() {
+		return maxAttempts;
+	}
+
+	public void setMaxAttempts(int maxAttempts) {
+		this.maxAttempts = maxAttempts;
+	}
+
+	public int getInitialBackoffMs() {
+		return initialBackoffMs;
+	}
+
+	public void setInitialBackoffMs(int initialBackoffMs) {
+		this.initialBackoffMs = initialBackoffMs;
+	}
+
+	public int getMaxBackoffMs() {
+		return maxBackoffMs;
+	}
+
+	public void setMaxBackoffMs(int maxBackoffMs) {
+		this.maxBackoffMs = maxBackoffMs;
+	}
+
+	public int getWebhookTimeoutMs() {
+		return webhookTimeoutMs;
+	}
+
+	public void setWebhookTimeoutMs(int webhookTimeoutMs) {
+		this.webhookTimeoutMs = webhookTimeoutMs;
+	}
+
+	public int getMaxTrackedEndpoints() {
+		return maxTrackedEndpoints;
+	}
+
+	public void setMaxTrackedEndpoints(int maxTrackedEndpoints) {
+		this.maxTrackedEndpoints = maxTrackedEndpoints;
+	}
+
+	public int getShutdownTimeoutMs() {
+		return shutdownTimeoutMs;
+	}
+
+	public void setShutdownTimeoutMs(int shutdownTimeoutMs) {
+		this.shutdownTimeoutMs = shutdownTimeoutMs;
+	}
+}
@@ -5,21 +5,30 @@ import com.spa_limited.domain_ssl_checker.model.SslExpiryResponse;
 import com.spa_limited.domain_ssl_checker.model.BulkSslExpiryRequestItem;
 import com.spa_limited.domain_ssl_checker.model.BulkSslExpiryResponseItem;
 import com.spa_limited.domain_ssl_checker.config.SslExpiryProperties;
+import com.spa_limited.domain_ssl_checker.service.BulkResultDigestStore;
 import com.spa_limited.domain_ssl_checker.service.SslExpiryService;
+import com.spa_limited.domain_ssl_checker.service.StatusTransitionNotifier;
 import jakarta.validation.Valid;
 import jakarta.validation.constraints.Max;
 import jakarta.validation.constraints.Min;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.Size;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.concurrent.CompletableFuture;
@@ -31,18 +40,31 @@ import java.util.concurrent.TimeUnit;
 @RequestMapping("/api/v1/ssl")
 public class SslExpiryController {
 
+	// CBOR and Smile converters are registered by Spring MVC whenever the Jackson dataformat jars are present.
+	static final String APPLICATION_SMILE_VALUE = "application/x-jackson-smile";
+
+	// Present on bulk responses that only carry the items changed since the token in If-None-Match.
+	static final String DELTA_BASE_HEADER = "X-Delta-Base";
+
 	private final SslExpiryService sslExpiryService;
 	private final ExecutorService sslBulkExecutor;
 	private final SslExpiryProperties properties;
+	private final BulkResultDigestStore bulkResultDigestStore;
+	private final StatusTransitionNotifier transitionNotifier;
 
-	public SslExpiryController(SslExpiryService sslExpiryService, ExecutorService sslBulkExecutor,
-			SslExpiryProperties properties) {
+	public SslExpiryController(SslExpiryService sslExpiryService,
+			@Qualifier("sslBulkExecutor") ExecutorService sslBulkExecutor, SslExpiryProperties properties,
+			BulkResultDigestStore bulkResultDigestStore, StatusTransitionNotifier transitionNotifier) {
 		this.sslExpiryService = sslExpiryService;
 		this.sslBulkExecutor = sslBulkExecutor;
 		this.properties = properties;
+		this.bulkResultDigestStore = bulkResultDigestStore;
+		this.transitionNotifier = transitionNotifier;
 	}
 
-	@GetMapping(value = "/expiry", produces = MediaType.APPLICATION_JSON_VALUE)
+	@GetMapping(value = "/expiry", produces = {
+			MediaType.APPLICATION_JSON_VALUE, MediaType.APPLICATION_CBOR_VALUE, APPLICATION_SMILE_VALUE
+	})
 	public SslExpiryResponse getExpiry(
 			@RequestParam("host") @NotBlank String host,
 			@RequestParam(value = "port", defaultValue = "443") @Min(1) @Max(65535) int port,
@@ -51,36 +73,30 @@ public class SslExpiryController {
 		return sslExpiryService.checkWithFallback(host.trim(), port, clientIp, true);
 	}
 
-	@PostMapping(value = "/expiry", consumes = MediaType.APPLICATION_JSON_VALUE, produces = MediaType.APPLICATION_JSON_VALUE)
+	@PostMapping(value = "/expiry", consumes = MediaType.APPLICATION_JSON_VALUE, produces = {
+			MediaType.APPLICATION_JSON_VALUE, MediaType.APPLICATION_CBOR_VALUE, APPLICATION_SMILE_VALUE
+	})
 	public SslExpiryResponse postExpiry(@Valid @RequestBody SslExpiryRequest request) {
 		String host = request.getHost() == null ? "" : request.getHost().trim();
 		int port = request.getPort() == null ? 443 : request.getPort();
 		return sslExpiryService.checkWithFallback(host, port, request.getClientIp(), true);
 	}
 
-	@PostMapping(value = "/expiry/bulk", consumes = MediaType.APPLICATION_JSON_VALUE, produces = MediaType.APPLICATION_JSON_VALUE)
-	public List<BulkSslExpiryResponseItem> bulkExpiry(
-			@Valid @Size(max = 300) @RequestBody List<@Valid BulkSslExpiryRequestItem> items
+	@PostMapping(value = "/expiry/bulk", consumes = MediaType.APPLICATION_JSON_VALUE, produces = {
+			MediaType.APPLICATION_JSON_VALUE, MediaType.APPLICATION_CBOR_VALUE, APPLICATION_SMILE_VALUE
+	})
+	public ResponseEntity<List<BulkSslExpiryResponseItem>> bulkExpiry(
+			@Valid @Size(max = 300) @RequestBody List<@Valid BulkSslExpiryRequestItem> items,
+			@RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch
 	) {
-		List<CompletableFuture<BulkSslExpiryResponseItem>> futures = new ArrayList<>();
+		List<CompletableFuture<SslExpiryResponse>> futures = new ArrayList<>(items.size());
 		for (BulkSslExpiryRequestItem item : items) {
 			futures.add(CompletableFuture.supplyAsync(() -> {
 				String host = item.getClientDomain() == null ? "" : item.getClientDomain().trim();
-				int port = item.getPort() == null ? 443 : item.getPort();
-			SslExpiryResponse response = sslExpiryService.checkWithFallback(host, port, item.getClientIp(), true);
-				BulkSslExpiryResponseItem enriched = new BulkSslExpiryResponseItem();
-				enriched.setClientName(item.getClientName());
-				enriched.setClientIp(item.getClientIp());
-				enriched.setClientDomain(item.getClientDomain());
-				enriched.setHost(response.getHost());
-				enriched.setPort(response.getPort());
-				enriched.setExpiresAt(response.getExpiresAt());
-				enriched.setDaysRemaining(response.getDaysRemaining());
-				enriched.setStatus(response.getStatus());
-				enriched.setErrorMessage(response.getErrorMessage());
-				enriched.setCheckedAt(response.getCheckedAt());
-				enriched.setChainTrusted(response.getChainTrusted());
-				return enriched;
+				SslExpiryResponse response = sslExpiryService.checkWithFallback(host, portOf(item), item.getClientIp(),
+						true);
+				transitionNotifier.observe(item.getClientIp(), response);
+				return response;
 			}, sslBulkExecutor));
 		}
 
@@ -92,34 +108,36 @@ public class SslExpiryController {
 			// Continue returning whatever has completed; unfinished tasks will return ERROR below.
 		}
 
-		List<BulkSslExpiryResponseItem> results = new ArrayList<>();
+		OffsetDateTime timedOutAt = null;
+		List<BulkSslExpiryResponseItem> results = new ArrayList<>(items.size());
 		for (int i = 0; i < items.size(); i++) {
 			BulkSslExpiryRequestItem item = items.get(i);
-			CompletableFuture<BulkSslExpiryResponseItem> future = futures.get(i);
+			CompletableFuture<SslExpiryResponse> future = futures.get(i);
+			SslExpiryResponse response;
 			if (future.isDone() && !future.isCompletedExceptionally()) {
-				results.add(future.join());
+				response = future.join();
 			} else {
-				BulkSslExpiryResponseItem fallback = new BulkSslExpiryResponseItem();
-				fallback.setClientName(item.getClientName());
-				fallback.setClientIp(item.getClientIp());
-				fallback.setClientDomain(item.getClientDomain());
-				fallback.setHost(item.getClientDomain());
-				fallback.setPort(item.getPort() == null ? 443 : item.getPort());
-				SslExpiryResponse error = SslExpiryResponse.error(
-						item.getClientDomain(),
-						item.getPort() == null ? 443 : item.getPort(),
-						"Timed out while performing SSL check",
-						java.time.OffsetDateTime.now(java.time.ZoneOffset.UTC)
-				);
-				fallback.setExpiresAt(error.getExpiresAt());
-				fallback.setDaysRemaining(error.getDaysRemaining());
-				fallback.setStatus(error.getStatus());
-				fallback.setErrorMessage(error.getErrorMessage());
-				fallback.setCheckedAt(error.getCheckedAt());
-				fallback.setChainTrusted(error.getChainTrusted());
-				results.add(fallback);
+				if (timedOutAt == null) {
+					timedOutAt = OffsetDateTime.now(ZoneOffset.UTC);
+				}
+				response = SslExpiryResponse.error(item.getClientDomain(), portOf(item),
+						"Timed out while performing SSL check", timedOutAt);
 			}
+			results.add(new BulkSslExpiryResponseItem(item, response));
+		}
+
+		BulkResultDigestStore.Delta delta = bulkResultDigestStore.record(items, results, ifNoneMatch);
+		if (delta.isNotModified()) {
+			return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(delta.getEtag()).build();
 		}
-		return results;
+		ResponseEntity.BodyBuilder builder = ResponseEntity.ok().eTag(delta.getEtag());
+		if (delta.getBaseEtag() != null) {
+			builder.header(DELTA_BASE_HEADER, delta.getBaseEtag());
+		}
+		return builder.body(delta.getItems());
+	}
+
+	private static int portOf(BulkSslExpiryRequestItem item) {
+		return item.getPort() == null ? 443 : item.getPort();
 	}
 }
@@ -1,39 +1,46 @@
 package com.spa_limited.domain_ssl_checker.model;
 
 import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.annotation.JsonPropertyOrder;
+import com.fasterxml.jackson.annotation.JsonUnwrapped;
 
-public class BulkSslExpiryResponseItem extends SslExpiryResponse {
+// Result fields first, then client fields, as when this class extended SslExpiryResponse.
+@JsonPropertyOrder({ "result", "client_name", "client_ip", "client_domain" })
+public class BulkSslExpiryResponseItem {
 
 	@JsonProperty("client_name")
-	private String clientName;
+	private final String clientName;
 
 	@JsonProperty("client_ip")
-	private String clientIp;
+	private final String clientIp;
 
 	@JsonProperty("client_domain")
-	private String clientDomain;
+	private final String clientDomain;
 
-	public String getClientName() {
-		return clientName;
+	// Serialized inline so the wire format stays flat without copying every field of the check result.
+	@JsonUnwrapped
+	private final SslExpiryResponse result;
+
+	public BulkSslExpiryResponseItem(BulkSslExpiryRequestItem item, SslExpiryResponse result) {
+		this.clientName = item.getClientName();
+		this.clientIp = item.getClientIp();
+		this.clientDomain = item.getClientDomain();
+		this.result = result;
 	}
 
-	public void setClientName(String clientName) {
-		this.clientName = clientName;
+	public String getClientName() {
+		return clientName;
 	}
 
 	public String getClientIp() {
 		return clientIp;
 	}
 
-	public void setClientIp(String clientIp) {
-		this.clientIp = clientIp;
-	}
-
 	public String getClientDomain() {
 		return clientDomain;
 	}
 
-	public void setClientDomain(String clientDomain) {
-		this.clientDomain = clientDomain;
+	public SslExpiryResponse getResult() {
+		return result;
 	}
 }
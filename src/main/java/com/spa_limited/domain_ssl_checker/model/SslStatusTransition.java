@@ -0,0 +1,86 @@
+package com.spa_limited.domain_ssl_checker.model;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import java.time.OffsetDateTime;
+
+public class SslStatusTransition {
+
+	private final String host;
+	private final int port;
+
+	@JsonProperty("client_ip")
+	private final String clientIp;
+
+	private final SslExpiryStatus previousStatus;
+	private final SslExpiryStatus status;
+	private final OffsetDateTime expiresAt;
+	private final int daysRemaining;
+	private final String errorMessage;
+	private final OffsetDateTime checkedAt;
+
+	public SslStatusTransition(SslExpiryStatus previousStatus, String clientIp, SslExpiryResponse response) {
+		this(response.getHost(), response.getPort(), clientIp, previousStatus, response.getStatus(),
+				response.getExpiresAt(), response.getDaysRemaining(), response.getErrorMessage(),
+				response.getCheckedAt());
+	}
+
+	private SslStatusTransition(String host, int port, String clientIp, SslExpiryStatus previousStatus,
+			SslExpiryStatus status, OffsetDateTime expiresAt, int daysRemaining, String errorMessage,
+			OffsetDateTime checkedAt) {
+		this.host = host;
+		this.port = port;
+		this.clientIp = clientIp;
+		this.previousStatus = previousStatus;
+		this.status = status;
+		this.expiresAt = expiresAt;
+		this.daysRemaining = daysRemaining;
+		this.errorMessage = errorMessage;
+		this.checkedAt = checkedAt;
+	}
+
+	/**
+	 * Returns this transition re-based on an earlier previous status, used when folding several
+	 * consecutive transitions of the same endpoint into one.
+	 */
+	public SslStatusTransition since(SslExpiryStatus earlierStatus) {
+		return new SslStatusTransition(host, port, clientIp, earlierStatus, status, expiresAt, daysRemaining,
+				errorMessage, checkedAt);
+	}
+
+	public String getHost() {
+		return host;
+	}
+
+	public int getPort() {
+		return port;
+	}
+
+	public String getClientIp() {
+		return clientIp;
+	}
+
+	public SslExpiryStatus getPreviousStatus() {
+		return previousStatus;
+	}
+
+	public SslExpiryStatus getStatus() {
+		return status;
+	}
+
+	public OffsetDateTime getExpiresAt() {
+		return expiresAt;
+	}
+
+	public int getDaysRemaining() {
+		return daysRemaining;
+	}
+
+	public String getErrorMessage() {
+		return errorMessage;
+	}
+
+	public OffsetDateTime getCheckedAt() {
+		return checkedAt;
+	}
+}
@@ -0,0 +1,171 @@
+package com.spa_limited.domain_ssl_checker.service;
+
+import com.spa_limited.domain_ssl_checker.config.SslExpiryProperties;
+import com.spa_limited.domain_ssl_checker.model.BulkSslExpiryRequestItem;
+import com.spa_limited.domain_ssl_checker.model.BulkSslExpiryResponseItem;
+import com.spa_limited.domain_ssl_checker.model.SslExpiryResponse;
+import org.springframework.stereotype.Component;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Keeps a compact digest of the latest bulk result per inventory (the exact list of requested items) so that
+ * repeated bulk calls can be answered with only the items whose status, expiry or chain trust changed.
+ * Only the most recent version of each inventory is kept, for up to {@code bulk-digest-capacity} inventories;
+ * a client holding an older or evicted token gets a full response. Whether anything changed is decided from the
+ * freshly computed token alone, so a 304 does not depend on a digest still being stored.
+ */
+@Component
+public class BulkResultDigestStore {
+
+	private final Map<String, Digest> digests;
+
+	public BulkResultDigestStore(SslExpiryProperties properties) {
+		int capacity = properties.getBulkDigestCapacity();
+		this.digests = Collections.synchronizedMap(new LinkedHashMap<>(16, 0.75f, true) {
+			@Override
+			protected boolean removeEldestEntry(Map.Entry<String, Digest> eldest) {
+				return size() > capacity;
+			}
+		});
+	}
+
+	/**
+	 * Records the new results for the inventory and works out what the caller still needs to see,
+	 * given the token from its previous call (the raw If-None-Match header, may be null).
+	 */
+	public Delta record(List<BulkSslExpiryRequestItem> items, List<BulkSslExpiryResponseItem> results,
+			String ifNoneMatch) {
+		String inventory = inventoryKey(items);
+		long[] fingerprints = new long[results.size()];
+		for (int i = 0; i < fingerprints.length; i++) {
+			fingerprints[i] = fingerprint(results.get(i).getResult());
+		}
+		String etag = etag(inventory, fingerprints);
+		Digest previous = digests.put(inventory, new Digest(etag, fingerprints));
+		if (ifNoneMatch == null || ifNoneMatch.isBlank()) {
+			return new Delta(etag, null, results);
+		}
+		if (matches(ifNoneMatch, etag)) {
+			return new Delta(etag, etag, List.of());
+		}
+		if (previous == null || !matches(ifNoneMatch, previous.etag)) {
+			return new Delta(etag, null, results);
+		}
+		List<BulkSslExpiryResponseItem> changed = new ArrayList<>();
+		for (int i = 0; i < fingerprints.length; i++) {
+			if (fingerprints[i] != previous.fingerprints[i]) {
+				changed.add(results.get(i));
+			}
+		}
+		return new Delta(etag, previous.etag, changed);
+	}
+
+	// Packs the compared fields losslessly: expiry epoch seconds in the high bits, status and trust in the low byte.
+	static long fingerprint(SslExpiryResponse response) {
+		long expiresAt = response.getExpiresAt() == null ? 0 : response.getExpiresAt().toEpochSecond();
+		int status = response.getStatus() == null ? 0 : response.getStatus().ordinal() + 1;
+		int trusted = response.getChainTrusted() == null ? 0 : (response.getChainTrusted() ? 1 : 2);
+		return (expiresAt << 8) | ((long) status << 2) | trusted;
+	}
+
+	// Weak comparison, as If-None-Match requires: the W/ prefix is ignored on both sides.
+	private static boolean matches(String ifNoneMatch, String etag) {
+		String opaque = stripWeak(etag);
+		for (String candidate : ifNoneMatch.split(",")) {
+			if (stripWeak(candidate.trim()).equals(opaque)) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	private static String stripWeak(String tag) {
+		return tag.startsWith("W/") ? tag.substring(2) : tag;
+	}
+
+	private static String inventoryKey(List<BulkSslExpiryRequestItem> items) {
+		MessageDigest digest = sha256();
+		for (BulkSslExpiryRequestItem item : items) {
+			update(digest, item.getClientName());
+			update(digest, item.getClientIp());
+			update(digest, item.getClientDomain());
+			update(digest, item.getPort() == null ? null : item.getPort().toString());
+		}
+		return HexFormat.of().formatHex(digest.digest(), 0, 16);
+	}
+
+	private static String etag(String inventory, long[] fingerprints) {
+		MessageDigest digest = sha256();
+		ByteBuffer buffer = ByteBuffer.allocate(Long.BYTES * fingerprints.length);
+		buffer.asLongBuffer().put(fingerprints);
+		digest.update(buffer);
+		// Weak, because the same token is shared by the JSON, CBOR and Smile representations.
+		return "W/\"" + inventory + "-" + HexFormat.of().formatHex(digest.digest(), 0, 8) + "\"";
+	}
+
+	private static void update(MessageDigest digest, String value) {
+		if (value != null) {
+			digest.update(value.getBytes(StandardCharsets.UTF_8));
+		}
+		digest.update((byte) 0);
+	}
+
+	private static MessageDigest sha256() {
+		try {
+			return MessageDigest.getInstance("SHA-256");
+		} catch (NoSuchAlgorithmException ex) {
+			throw new IllegalStateException("SHA-256 not available", ex);
+		}
+	}
+
+	private static class Digest {
+		private final String etag;
+		private final long[] fingerprints;
+
+		private Digest(String etag, long[] fingerprints) {
+			this.etag = etag;
+			this.fingerprints = fingerprints;
+		}
+	}
+
+	public static class Delta {
+		private final String etag;
+		private final String baseEtag;
+		private final List<BulkSslExpiryResponseItem> items;
+
+		private Delta(String etag, String baseEtag, List<BulkSslExpiryResponseItem> items) {
+			this.etag = etag;
+			this.baseEtag = baseEtag;
+			this.items = items;
+		}
+
+		public String getEtag() {
+			return etag;
+		}
+
+		/**
+		 * Token the returned items are relative to, or null when the items are the full result set.
+		 */
+		public String getBaseEtag() {
+			return baseEtag;
+		}
+
+		public List<BulkSslExpiryResponseItem> getItems() {
+			return items;
+		}
+
+		public boolean isNotModified() {
+			return baseEtag != null && baseEtag.equals(etag);
+		}
+	}
+}
@@ -0,0 +1,60 @@
+package com.spa_limited.domain_ssl_checker.service;
+
+import com.spa_limited.domain_ssl_checker.config.SslNotificationProperties;
+import com.spa_limited.domain_ssl_checker.model.SslExpiryResponse;
+import com.spa_limited.domain_ssl_checker.model.SslExpiryStatus;
+import com.spa_limited.domain_ssl_checker.model.SslStatusTransition;
+import org.springframework.stereotype.Component;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Remembers the last status seen per monitored endpoint and reports only changes. An endpoint is a host and
+ * port as checked through a given client IP, since an IP fallback can legitimately see a different certificate.
+ * The first result for an endpoint establishes its baseline and is not reported. At most
+ * {@code ssl.notifications.max-tracked-endpoints} endpoints are remembered; the least recently
+ * checked ones are forgotten first and start over from a new baseline.
+ */
+@Component
+public class StatusTransitionDetector {
+
+	private final Map<String, SslExpiryStatus> lastKnown;
+
+	public StatusTransitionDetector(SslNotificationProperties properties) {
+		int capacity = properties.getMaxTrackedEndpoints();
+		this.lastKnown = Collections.synchronizedMap(new LinkedHashMap<>(16, 0.75f, true) {
+			@Override
+			protected boolean removeEldestEntry(Map.Entry<String, SslExpiryStatus> eldest) {
+				return size() > capacity;
+			}
+		});
+	}
+
+	public SslStatusTransition detect(String clientIp, SslExpiryResponse response) {
+		if (response.getHost() == null || response.getStatus() == null) {
+			return null;
+		}
+		SslExpiryStatus previous = lastKnown.put(endpointKey(response.getHost(), response.getPort(), clientIp),
+				response.getStatus());
+		if (previous == null || previous == response.getStatus()) {
+			return null;
+		}
+		return new SslStatusTransition(previous, clientIp, response);
+	}
+
+	/**
+	 * Puts the endpoint back to the transition's previous status, so the next check reports it again.
+	 */
+	public void revert(SslStatusTransition transition) {
+		lastKnown.put(endpointKey(transition.getHost(), transition.getPort(), transition.getClientIp()),
+				transition.getPreviousStatus());
+	}
+
+	static String endpointKey(String host, int port, String clientIp) {
+		String key = host.trim().toLowerCase(Locale.ROOT) + ":" + port;
+		return clientIp == null || clientIp.isBlank() ? key : key + "@" + clientIp.trim();
+	}
+}
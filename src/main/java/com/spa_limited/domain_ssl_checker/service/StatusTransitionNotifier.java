@@ -0,0 +1,165 @@
+package com.spa_limited.domain_ssl_checker.service;
+
+import com.spa_limited.domain_ssl_checker.config.SslNotificationProperties;
+import com.spa_limited.domain_ssl_checker.model.SslExpiryResponse;
+import com.spa_limited.domain_ssl_checker.model.SslStatusTransition;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.http.client.JdkClientHttpRequestFactory;
+import org.springframework.stereotype.Service;
+import org.springframework.web.client.RestClient;
+
+import java.net.http.HttpClient;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Queues status transitions of bulk inventory endpoints and hands them, coalesced once per window, to one
+ * {@link WebhookSink} per configured webhook. Probing threads only ever perform a non-blocking offer, and the
+ * periodic flush only drains and hands off; HTTP delivery and retries run on each sink's own thread.
+ */
+@Service
+public class StatusTransitionNotifier {
+
+	private static final Logger logger = LoggerFactory.getLogger(StatusTransitionNotifier.class);
+
+	private final StatusTransitionDetector detector;
+	private final SslNotificationProperties properties;
+	private final BlockingQueue<SslStatusTransition> queue;
+	private final List<WebhookSink> sinks = new ArrayList<>();
+	// Detection and enqueueing must happen together, or two concurrent checks of one endpoint could queue
+	// OK -> ERROR after ERROR -> OK and leave the webhooks with a status the detector no longer holds.
+	private final Object observeLock = new Object();
+	private ScheduledExecutorService flusher;
+
+	public StatusTransitionNotifier(StatusTransitionDetector detector, SslNotificationProperties properties) {
+		this.detector = detector;
+		this.properties = properties;
+		this.queue = new ArrayBlockingQueue<>(properties.getQueueCapacity());
+
+		Duration timeout = Duration.ofMillis(properties.getWebhookTimeoutMs());
+		JdkClientHttpRequestFactory requestFactory = new JdkClientHttpRequestFactory(
+				HttpClient.newBuilder().connectTimeout(timeout).build());
+		requestFactory.setReadTimeout(timeout);
+		RestClient restClient = RestClient.builder().requestFactory(requestFactory).build();
+		if (properties.getWebhooks() != null) {
+			for (String webhook : properties.getWebhooks()) {
+				if (webhook != null && !webhook.isBlank()) {
+					sinks.add(new WebhookSink(sinks.size(), webhook.trim(), properties, restClient));
+				}
+			}
+		}
+	}
+
+	@PostConstruct
+	public void start() {
+		if (sinks.isEmpty()) {
+			return;
+		}
+		// Own thread rather than a shared executor bean: flushing only drains and hands off, and a second
+		// ExecutorService bean would make the bulk executor ambiguous to inject.
+		flusher = Executors.newSingleThreadScheduledExecutor(runnable -> {
+			Thread thread = new Thread(runnable, "ssl-notification-flush");
+			thread.setDaemon(true);
+			return thread;
+		});
+		long windowMs = properties.getCoalesceWindowMs();
+		flusher.scheduleWithFixedDelay(this::flush, windowMs, windowMs, TimeUnit.MILLISECONDS);
+	}
+
+	/**
+	 * Hands whatever is still queued to the sinks and gives them up to {@code shutdown-timeout-ms} in total
+	 * for a final delivery attempt. The detector has already recorded these statuses, so anything not
+	 * delivered here would never be reported.
+	 */
+	@PreDestroy
+	public void stop() {
+		if (sinks.isEmpty()) {
+			return;
+		}
+		long deadlineNanos = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(properties.getShutdownTimeoutMs());
+		if (flusher != null) {
+			// Cancels the periodic flush and lets one that is already running hand off before the final flush.
+			flusher.shutdown();
+			try {
+				flusher.awaitTermination(deadlineNanos - System.nanoTime(), TimeUnit.NANOSECONDS);
+			} catch (InterruptedException ex) {
+				Thread.currentThread().interrupt();
+			}
+		}
+		flush();
+		for (WebhookSink sink : sinks) {
+			sink.close(deadlineNanos);
+		}
+	}
+
+	/**
+	 * Records the result of a monitored (bulk inventory) check. Ad-hoc single lookups are deliberately not
+	 * observed: they would crowd monitored endpoints out of the detector and report statuses for arbitrary hosts.
+	 */
+	public void observe(String clientIp, SslExpiryResponse response) {
+		if (sinks.isEmpty()) {
+			return;
+		}
+		SslStatusTransition transition;
+		boolean queued;
+		synchronized (observeLock) {
+			transition = detector.detect(clientIp, response);
+			queued = transition == null || queue.offer(transition);
+			if (!queued) {
+				detector.revert(transition);
+			}
+		}
+		if (!queued) {
+			logger.warn("Notification queue full, deferring {} -> {} transition for {}:{} to its next check",
+					transition.getPreviousStatus(), transition.getStatus(), transition.getHost(), transition.getPort());
+		}
+	}
+
+	void flush() {
+		try {
+			List<SslStatusTransition> drained = new ArrayList<>();
+			queue.drainTo(drained);
+			List<SslStatusTransition> transitions = coalesce(drained);
+			if (transitions.isEmpty()) {
+				return;
+			}
+			for (WebhookSink sink : sinks) {
+				sink.submit(transitions);
+			}
+		} catch (Exception ex) {
+			// Never let an exception cancel the periodic flush.
+			logger.error("Failed to flush status transitions", ex);
+		}
+	}
+
+	/**
+	 * Folds transitions of the same endpoint into one from its earliest previous status to its latest
+	 * status, dropping endpoints that ended where they started. Order of first appearance is kept.
+	 */
+	static List<SslStatusTransition> coalesce(List<SslStatusTransition> transitions) {
+		Map<String, SslStatusTransition> merged = new LinkedHashMap<>();
+		for (SslStatusTransition transition : transitions) {
+			merge(merged, transition);
+		}
+		return List.copyOf(merged.values());
+	}
+
+	static void merge(Map<String, SslStatusTransition> merged, SslStatusTransition transition) {
+		merged.merge(StatusTransitionDetector.endpointKey(transition.getHost(), transition.getPort(),
+						transition.getClientIp()), transition,
+				(first, latest) -> first.getPreviousStatus() == latest.getStatus()
+						? null
+						: latest.since(first.getPreviousStatus()));
+	}
+}
@@ -0,0 +1,188 @@
+package com.spa_limited.domain_ssl_checker.service;
+
+import com.spa_limited.domain_ssl_checker.config.SslNotificationProperties;
+import com.spa_limited.domain_ssl_checker.model.SslStatusTransition;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.http.MediaType;
+import org.springframework.web.client.RestClient;
+
+import java.net.URI;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Delivery state for one webhook. Each sink has its own thread, so a slow or dead webhook only delays itself.
+ * Undelivered transitions are kept coalesced per endpoint. While a retry is pending, newer transitions are
+ * held back and folded into the failed ones, so the webhook never receives an older status after a newer one.
+ */
+class WebhookSink {
+
+	private static final Logger logger = LoggerFactory.getLogger(WebhookSink.class);
+
+	private final String url;
+	// Safe to log: webhook URLs often carry their secret in the path or credentials in the user info.
+	private final String label;
+	private final SslNotificationProperties properties;
+	private final RestClient restClient;
+	private final ScheduledThreadPoolExecutor executor;
+
+	// Only touched on the executor thread.
+	private Map<String, SslStatusTransition> pending = new LinkedHashMap<>();
+	private boolean retryScheduled;
+	private int failedAttempts;
+
+	WebhookSink(int index, String url, SslNotificationProperties properties, RestClient restClient) {
+		this.url = url;
+		this.label = label(index, url);
+		this.properties = properties;
+		this.restClient = restClient;
+		this.executor = new ScheduledThreadPoolExecutor(1, runnable -> {
+			Thread thread = new Thread(runnable, "ssl-webhook-" + index);
+			thread.setDaemon(true);
+			return thread;
+		});
+	}
+
+	void submit(List<SslStatusTransition> transitions) {
+		try {
+			executor.execute(() -> {
+				for (SslStatusTransition transition : transitions) {
+					StatusTransitionNotifier.merge(pending, transition);
+				}
+				if (!retryScheduled) {
+					deliverPending();
+				}
+			});
+		} catch (RejectedExecutionException ex) {
+			logger.warn("Dropping {} transitions for {}, sink already closed", transitions.size(), label);
+		}
+	}
+
+	/**
+	 * Cancels any scheduled retry, makes one last delivery attempt for everything pending and waits for it
+	 * until the deadline. Transitions that cannot be delivered by then are logged and dropped.
+	 */
+	void close(long deadlineNanos) {
+		executor.setExecuteExistingDelayedTasksAfterShutdownPolicy(false);
+		try {
+			executor.execute(this::deliverFinal);
+		} catch (RejectedExecutionException ex) {
+			return;
+		}
+		executor.shutdown();
+		try {
+			if (!executor.awaitTermination(deadlineNanos - System.nanoTime(), TimeUnit.NANOSECONDS)) {
+				logger.warn("Timed out delivering pending transitions to {} on shutdown, dropping the rest", label);
+				executor.shutdownNow();
+			}
+		} catch (InterruptedException ex) {
+			executor.shutdownNow();
+			Thread.currentThread().interrupt();
+		}
+	}
+
+	private void deliverPending() {
+		while (!pending.isEmpty()) {
+			List<SslStatusTransition> batch = takeBatch();
+			try {
+				post(batch);
+				failedAttempts = 0;
+			} catch (Exception ex) {
+				failedAttempts++;
+				if (failedAttempts >= properties.getMaxAttempts()) {
+					logger.warn("Giving up delivering {} transitions to {} after {} attempts - {}",
+							batch.size(), label, failedAttempts, describe(ex));
+					failedAttempts = 0;
+					continue;
+				}
+				requeueBeforePending(batch);
+				long delayMs = backoffMs(failedAttempts);
+				logger.warn("Delivering {} transitions to {} failed (attempt {}), retrying in {} ms - {}",
+						batch.size(), label, failedAttempts, delayMs, describe(ex));
+				try {
+					executor.schedule(() -> {
+						retryScheduled = false;
+						deliverPending();
+					}, delayMs, TimeUnit.MILLISECONDS);
+					retryScheduled = true;
+				} catch (RejectedExecutionException rejected) {
+					// Closing: the final delivery attempt queued by close() picks up what is pending.
+				}
+				return;
+			}
+		}
+	}
+
+	private void deliverFinal() {
+		while (!pending.isEmpty()) {
+			List<SslStatusTransition> batch = takeBatch();
+			try {
+				post(batch);
+			} catch (Exception ex) {
+				logger.warn("Dropping {} transitions for {} on shutdown - {}", batch.size(), label, describe(ex));
+			}
+		}
+	}
+
+	private List<SslStatusTransition> takeBatch() {
+		List<SslStatusTransition> batch = new ArrayList<>(Math.min(pending.size(), properties.getBatchSize()));
+		Iterator<SslStatusTransition> iterator = pending.values().iterator();
+		while (iterator.hasNext() && batch.size() < properties.getBatchSize()) {
+			batch.add(iterator.next());
+			iterator.remove();
+		}
+		return batch;
+	}
+
+	// The failed batch is older than anything that arrived since, so newer transitions fold into it, not the reverse.
+	private void requeueBeforePending(List<SslStatusTransition> failed) {
+		Map<String, SslStatusTransition> merged = new LinkedHashMap<>();
+		for (SslStatusTransition transition : failed) {
+			StatusTransitionNotifier.merge(merged, transition);
+		}
+		for (SslStatusTransition transition : pending.values()) {
+			StatusTransitionNotifier.merge(merged, transition);
+		}
+		pending = merged;
+	}
+
+	private void post(List<SslStatusTransition> batch) {
+		restClient.post()
+				.uri(url)
+				.contentType(MediaType.APPLICATION_JSON)
+				.body(batch)
+				.retrieve()
+				.toBodilessEntity();
+	}
+
+	// Client exceptions quote the request URL in their message.
+	private String describe(Exception ex) {
+		String message = ex.getMessage();
+		return message == null ? ex.getClass().getSimpleName() : message.replace(url, label);
+	}
+
+	static String label(int index, String url) {
+		try {
+			URI uri = URI.create(url);
+			if (uri.getScheme() != null && uri.getHost() != null) {
+				String port = uri.getPort() == -1 ? "" : ":" + uri.getPort();
+				return "webhook #" + index + " (" + uri.getScheme() + "://" + uri.getHost() + port + ")";
+			}
+		} catch (IllegalArgumentException ex) {
+			// Fall through to the index alone.
+		}
+		return "webhook #" + index;
+	}
+
+	private long backoffMs(int attempt) {
+		long delay = (long) properties.getInitialBackoffMs() << Math.min(attempt - 1, 20);
+		return Math.min(delay, properties.getMaxBackoffMs());
+	}
+}
@@ -0,0 +1,184 @@
+package com.spa_limited.domain_ssl_checker.controller;
+
+import com.spa_limited.domain_ssl_checker.model.SslExpiryResponse;
+import com.spa_limited.domain_ssl_checker.model.SslExpiryStatus;
+import com.spa_limited.domain_ssl_checker.service.SslExpiryService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.ResultActions;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.web.context.WebApplicationContext;
+import tools.jackson.databind.JsonNode;
+import tools.jackson.dataformat.cbor.CBORMapper;
+import tools.jackson.dataformat.smile.SmileMapper;
+
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hamcrest.Matchers.not;
+import static org.hamcrest.Matchers.startsWith;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+class SslExpiryControllerTests {
+
+	// The digest store is shared by the whole context, so each test submits its own inventory.
+	private final String inventory = """
+			[
+			  { "client_name": "A %1$s", "client_domain": "erp.a.co.ke" },
+			  { "client_name": "B %1$s", "client_domain": "erp.b.co.ke" }
+			]
+			""".formatted(UUID.randomUUID());
+
+	private final Map<String, SslExpiryStatus> statuses = new ConcurrentHashMap<>();
+
+	@Autowired
+	private WebApplicationContext context;
+
+	@MockitoBean
+	private SslExpiryService service;
+
+	private MockMvc mockMvc;
+
+	@BeforeEach
+	void setUp() {
+		when(service.checkWithFallback(anyString(), anyInt(), any(), anyBoolean()))
+				.thenAnswer(invocation -> response(invocation.getArgument(0), invocation.getArgument(1)));
+		mockMvc = MockMvcBuilders.webAppContextSetup(context).build();
+	}
+
+	@Test
+	void singleCheckNegotiatesCbor() throws Exception {
+		byte[] body = mockMvc.perform(get("/api/v1/ssl/expiry").param("host", "erp.a.co.ke")
+						.accept(MediaType.APPLICATION_CBOR))
+				.andExpect(status().isOk())
+				.andExpect(content().contentTypeCompatibleWith(MediaType.APPLICATION_CBOR))
+				.andReturn().getResponse().getContentAsByteArray();
+
+		JsonNode result = CBORMapper.builder().build().readTree(body);
+		assertThat(result.get("host").asString()).isEqualTo("erp.a.co.ke");
+		assertThat(result.get("status").asString()).isEqualTo("OK");
+	}
+
+	@Test
+	void bulkCheckNegotiatesCborAndSmile() throws Exception {
+		byte[] cbor = bulk(null, MediaType.APPLICATION_CBOR)
+				.andExpect(status().isOk())
+				.andExpect(content().contentTypeCompatibleWith(MediaType.APPLICATION_CBOR))
+				.andReturn().getResponse().getContentAsByteArray();
+		byte[] smile = bulk(null, MediaType.valueOf(SslExpiryController.APPLICATION_SMILE_VALUE))
+				.andExpect(status().isOk())
+				.andExpect(content().contentTypeCompatibleWith(SslExpiryController.APPLICATION_SMILE_VALUE))
+				.andReturn().getResponse().getContentAsByteArray();
+
+		for (JsonNode items : List.of(CBORMapper.builder().build().readTree(cbor),
+				SmileMapper.builder().build().readTree(smile))) {
+			assertThat(items.size()).isEqualTo(2);
+			assertThat(items.get(1).get("client_domain").asString()).isEqualTo("erp.b.co.ke");
+			assertThat(items.get(1).get("status").asString()).isEqualTo("OK");
+		}
+	}
+
+	@Test
+	void unconditionalRequestReturnsFullResultsWithWeakEtag() throws Exception {
+		bulk(null)
+				.andExpect(status().isOk())
+				.andExpect(header().string(HttpHeaders.ETAG, startsWith("W/\"")))
+				.andExpect(header().doesNotExist(SslExpiryController.DELTA_BASE_HEADER))
+				.andExpect(jsonPath("$.length()").value(2));
+	}
+
+	@Test
+	void unknownTokenReturnsFullResults() throws Exception {
+		bulk("W/\"unknown\"")
+				.andExpect(status().isOk())
+				.andExpect(header().exists(HttpHeaders.ETAG))
+				.andExpect(header().doesNotExist(SslExpiryController.DELTA_BASE_HEADER))
+				.andExpect(jsonPath("$.length()").value(2));
+	}
+
+	@Test
+	void unchangedInventoryReturnsNotModified() throws Exception {
+		String etag = firstEtag();
+
+		bulk(etag)
+				.andExpect(status().isNotModified())
+				.andExpect(header().string(HttpHeaders.ETAG, etag))
+				.andExpect(content().string(""));
+	}
+
+	@Test
+	void changedItemsAreReturnedAsDelta() throws Exception {
+		String etag = firstEtag();
+		statuses.put("erp.b.co.ke", SslExpiryStatus.ERROR);
+
+		bulk(etag)
+				.andExpect(status().isOk())
+				.andExpect(header().string(HttpHeaders.ETAG, not(etag)))
+				.andExpect(header().string(SslExpiryController.DELTA_BASE_HEADER, etag))
+				.andExpect(jsonPath("$.length()").value(1))
+				.andExpect(jsonPath("$[0].client_domain").value("erp.b.co.ke"))
+				.andExpect(jsonPath("$[0].status").value("ERROR"));
+	}
+
+	private String firstEtag() throws Exception {
+		return bulk(null)
+				.andExpect(status().isOk())
+				.andExpect(jsonPath("$.length()").value(2))
+				.andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+	}
+
+	private ResultActions bulk(String ifNoneMatch) throws Exception {
+		return bulk(ifNoneMatch, MediaType.APPLICATION_JSON);
+	}
+
+	private ResultActions bulk(String ifNoneMatch, MediaType accept) throws Exception {
+		MockHttpServletRequestBuilder request = post("/api/v1/ssl/expiry/bulk")
+				.contentType(MediaType.APPLICATION_JSON)
+				.accept(accept)
+				.content(inventory);
+		if (ifNoneMatch != null) {
+			request.header(HttpHeaders.IF_NONE_MATCH, ifNoneMatch);
+		}
+		return mockMvc.perform(request);
+	}
+
+	private SslExpiryResponse response(String host, int port) {
+		SslExpiryStatus status = statuses.getOrDefault(host, SslExpiryStatus.OK);
+		OffsetDateTime checkedAt = OffsetDateTime.now(ZoneOffset.UTC);
+		if (status == SslExpiryStatus.ERROR) {
+			return SslExpiryResponse.error(host, port, "Connection refused", checkedAt);
+		}
+		SslExpiryResponse response = new SslExpiryResponse();
+		response.setHost(host);
+		response.setPort(port);
+		response.setExpiresAt(OffsetDateTime.of(2026, 12, 1, 0, 0, 0, 0, ZoneOffset.UTC));
+		response.setDaysRemaining(43);
+		response.setStatus(status);
+		response.setCheckedAt(checkedAt);
+		response.setChainTrusted(Boolean.TRUE);
+		return response;
+	}
+}
@@ -0,0 +1,182 @@
+package com.spa_limited.domain_ssl_checker.model;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import tools.jackson.databind.ObjectMapper;
+import tools.jackson.databind.json.JsonMapper;
+import tools.jackson.dataformat.cbor.CBORMapper;
+import tools.jackson.dataformat.smile.SmileMapper;
+
+import java.lang.management.ManagementFactory;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Rough per-item cost of building and encoding a full 300 item bulk response.
+ * "copy" reproduces the previous field-by-field enrichment into a flat subclass, "wrap" is the current mapping.
+ * Allocation figures depend on the JVM, so this only runs on request: {@code ./mvnw test -Pbenchmark}.
+ */
+@Tag("benchmark")
+class BulkResponseEncodingBenchmarkTests {
+
+	private static final Logger logger = LoggerFactory.getLogger(BulkResponseEncodingBenchmarkTests.class);
+
+	private static final int ITEMS = 300;
+	private static final int ROUNDS = 200;
+
+	@Test
+	void binaryFormatsAreSmallerThanJson() {
+		List<BulkSslExpiryResponseItem> results = wrap(requests(), responses());
+
+		int json = JsonMapper.builder().build().writeValueAsBytes(results).length;
+		int cbor = CBORMapper.builder().build().writeValueAsBytes(results).length;
+		int smile = SmileMapper.builder().build().writeValueAsBytes(results).length;
+		logger.info("Bytes per item: json={} cbor={} smile={}", json / ITEMS, cbor / ITEMS, smile / ITEMS);
+
+		assertThat(cbor).isLessThan(json);
+		assertThat(smile).isLessThan(json);
+	}
+
+	@Test
+	void wrappingAllocatesLessThanCopying() {
+		List<BulkSslExpiryRequestItem> requests = requests();
+		List<SslExpiryResponse> responses = responses();
+		ObjectMapper mapper = JsonMapper.builder().build();
+
+		long copyMapping = allocatedPerItem(() -> copy(requests, responses), null);
+		long wrapMapping = allocatedPerItem(() -> wrap(requests, responses), null);
+		long copyEncoded = allocatedPerItem(() -> copy(requests, responses), mapper);
+		long wrapEncoded = allocatedPerItem(() -> wrap(requests, responses), mapper);
+		logger.info("Allocated bytes per item: mapping copy={} wrap={}, mapping+json copy={} wrap={}",
+				copyMapping, wrapMapping, copyEncoded, wrapEncoded);
+
+		assertThat(wrapMapping).isLessThan(copyMapping);
+	}
+
+	private static long allocatedPerItem(Supplier<List<?>> mapping, ObjectMapper mapper) {
+		com.sun.management.ThreadMXBean threads = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+		long threadId = Thread.currentThread().getId();
+		for (int i = 0; i < ROUNDS; i++) {
+			run(mapping, mapper);
+		}
+		long before = threads.getThreadAllocatedBytes(threadId);
+		for (int i = 0; i < ROUNDS; i++) {
+			run(mapping, mapper);
+		}
+		long after = threads.getThreadAllocatedBytes(threadId);
+		return (after - before) / ((long) ROUNDS * ITEMS);
+	}
+
+	private static void run(Supplier<List<?>> mapping, ObjectMapper mapper) {
+		List<?> results = mapping.get();
+		if (mapper != null) {
+			mapper.writeValueAsBytes(results);
+		}
+	}
+
+	private static List<BulkSslExpiryResponseItem> wrap(List<BulkSslExpiryRequestItem> requests,
+			List<SslExpiryResponse> responses) {
+		List<BulkSslExpiryResponseItem> results = new ArrayList<>(ITEMS);
+		for (int i = 0; i < ITEMS; i++) {
+			results.add(new BulkSslExpiryResponseItem(requests.get(i), responses.get(i)));
+		}
+		return results;
+	}
+
+	// The pre-wrapping enrichment: one flat object per item holding the client fields and a copy of every result field.
+	private static List<LegacyBulkItem> copy(List<BulkSslExpiryRequestItem> requests,
+			List<SslExpiryResponse> responses) {
+		List<LegacyBulkItem> results = new ArrayList<>(ITEMS);
+		for (int i = 0; i < ITEMS; i++) {
+			BulkSslExpiryRequestItem item = requests.get(i);
+			SslExpiryResponse response = responses.get(i);
+			LegacyBulkItem enriched = new LegacyBulkItem();
+			enriched.setClientName(item.getClientName());
+			enriched.setClientIp(item.getClientIp());
+			enriched.setClientDomain(item.getClientDomain());
+			enriched.setHost(response.getHost());
+			enriched.setPort(response.getPort());
+			enriched.setExpiresAt(response.getExpiresAt());
+			enriched.setDaysRemaining(response.getDaysRemaining());
+			enriched.setStatus(response.getStatus());
+			enriched.setErrorMessage(response.getErrorMessage());
+			enriched.setCheckedAt(response.getCheckedAt());
+			enriched.setChainTrusted(response.getChainTrusted());
+			results.add(enriched);
+		}
+		return results;
+	}
+
+	private static List<BulkSslExpiryRequestItem> requests() {
+		List<BulkSslExpiryRequestItem> items = new ArrayList<>(ITEMS);
+		for (int i = 0; i < ITEMS; i++) {
+			BulkSslExpiryRequestItem item = new BulkSslExpiryRequestItem();
+			item.setClientName("CLIENT WATER AND SANITATION COMPANY " + i);
+			item.setClientIp("102.217.125." + (i % 250));
+			item.setClientDomain("erp.client" + i + ".co.ke");
+			items.add(item);
+		}
+		return items;
+	}
+
+	private static List<SslExpiryResponse> responses() {
+		OffsetDateTime checkedAt = OffsetDateTime.of(2026, 2, 5, 10, 30, 0, 0, ZoneOffset.UTC);
+		List<SslExpiryResponse> responses = new ArrayList<>(ITEMS);
+		for (int i = 0; i < ITEMS; i++) {
+			SslExpiryResponse response = new SslExpiryResponse();
+			response.setHost("erp.client" + i + ".co.ke");
+			response.setPort(443);
+			response.setExpiresAt(checkedAt.plusDays(i % 90));
+			response.setDaysRemaining(i % 90);
+			response.setStatus(i % 90 <= 7 ? SslExpiryStatus.EXPIRING : SslExpiryStatus.OK);
+			response.setCheckedAt(checkedAt);
+			response.setChainTrusted(Boolean.TRUE);
+			responses.add(response);
+		}
+		return responses;
+	}
+
+	static class LegacyBulkItem extends SslExpiryResponse {
+
+		@JsonProperty("client_name")
+		private String clientName;
+
+		@JsonProperty("client_ip")
+		private String clientIp;
+
+		@JsonProperty("client_domain")
+		private String clientDomain;
+
+		public String getClientName() {
+			return clientName;
+		}
+
+		public void setClientName(String clientName) {
+			this.clientName = clientName;
+		}
+
+		public String getClientIp() {
+			return clientIp;
+		}
+
+		public void setClientIp(String clientIp) {
+			this.clientIp = clientIp;
+		}
+
+		public String getClientDomain() {
+			return clientDomain;
+		}
+
+		public void setClientDomain(String clientDomain) {
+			this.clientDomain = clientDomain;
+		}
+	}
+}
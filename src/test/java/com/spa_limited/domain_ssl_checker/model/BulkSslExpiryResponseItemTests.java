@@ -0,0 +1,45 @@
+package com.spa_limited.domain_ssl_checker.model;
+
+import org.junit.jupiter.api.Test;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class BulkSslExpiryResponseItemTests {
+
+	@Test
+	void serializesAsFlatObjectWithClientFieldsLast() {
+		BulkSslExpiryRequestItem item = new BulkSslExpiryRequestItem();
+		item.setClientName("BOMET WATER AND SANITATION COMPANY");
+		item.setClientIp("102.217.125.27");
+		item.setClientDomain("erp.bometwater.co.ke");
+		SslExpiryResponse result = new SslExpiryResponse();
+		result.setHost("erp.bometwater.co.ke");
+		result.setPort(443);
+		result.setExpiresAt(OffsetDateTime.of(2026, 3, 1, 12, 34, 56, 0, ZoneOffset.UTC));
+		result.setDaysRemaining(24);
+		result.setStatus(SslExpiryStatus.OK);
+		result.setCheckedAt(OffsetDateTime.of(2026, 2, 5, 10, 30, 0, 0, ZoneOffset.UTC));
+		result.setChainTrusted(Boolean.TRUE);
+
+		JsonMapper mapper = JsonMapper.builder().build();
+		byte[] json = mapper.writeValueAsBytes(new BulkSslExpiryResponseItem(item, result));
+		@SuppressWarnings("unchecked")
+		Map<String, Object> fields = mapper.readValue(json, LinkedHashMap.class);
+
+		assertThat(fields.keySet()).containsExactlyInAnyOrder("host", "port", "expiresAt", "daysRemaining", "status",
+				"errorMessage", "checkedAt", "chainTrusted", "client_name", "client_ip", "client_domain");
+		List<String> names = new ArrayList<>(fields.keySet());
+		assertThat(names.subList(names.size() - 3, names.size()))
+				.containsExactly("client_name", "client_ip", "client_domain");
+		assertThat(fields.get("client_domain")).isEqualTo("erp.bometwater.co.ke");
+		assertThat(fields.get("status")).isEqualTo("OK");
+	}
+}
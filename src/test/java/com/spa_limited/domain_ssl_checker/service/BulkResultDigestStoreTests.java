@@ -0,0 +1,128 @@
+package com.spa_limited.domain_ssl_checker.service;
+
+import com.spa_limited.domain_ssl_checker.config.SslExpiryProperties;
+import com.spa_limited.domain_ssl_checker.model.BulkSslExpiryRequestItem;
+import com.spa_limited.domain_ssl_checker.model.BulkSslExpiryResponseItem;
+import com.spa_limited.domain_ssl_checker.model.SslExpiryResponse;
+import com.spa_limited.domain_ssl_checker.model.SslExpiryStatus;
+import org.junit.jupiter.api.Test;
+
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class BulkResultDigestStoreTests {
+
+	private static final OffsetDateTime EXPIRES_AT = OffsetDateTime.of(2026, 3, 1, 12, 0, 0, 0, ZoneOffset.UTC);
+
+	private final SslExpiryProperties properties = new SslExpiryProperties();
+	private final BulkResultDigestStore store = new BulkResultDigestStore(properties);
+	private final List<BulkSslExpiryRequestItem> items = List.of(item("erp.a.co.ke"), item("erp.b.co.ke"));
+
+	@Test
+	void returnsFullResultsWithoutMatchingToken() {
+		BulkResultDigestStore.Delta first = store.record(items, results(SslExpiryStatus.OK, 30), null);
+		BulkResultDigestStore.Delta stale = store.record(items, results(SslExpiryStatus.OK, 29), "\"unknown\"");
+
+		assertThat(first.getEtag()).startsWith("W/\"");
+		assertThat(first.getBaseEtag()).isNull();
+		assertThat(first.getItems()).hasSize(2);
+		assertThat(stale.getBaseEtag()).isNull();
+		assertThat(stale.getItems()).hasSize(2);
+		assertThat(stale.getEtag()).isEqualTo(first.getEtag());
+	}
+
+	@Test
+	void acceptsTokenFromUnconditionalResponse() {
+		BulkResultDigestStore.Delta first = store.record(items, results(SslExpiryStatus.OK, 30), null);
+		BulkResultDigestStore.Delta unchanged = store.record(items, results(SslExpiryStatus.OK, 30), first.getEtag());
+		List<BulkSslExpiryResponseItem> next = results(SslExpiryStatus.OK, 30);
+		next.get(0).getResult().setStatus(SslExpiryStatus.EXPIRING);
+		BulkResultDigestStore.Delta changed = store.record(items, next, first.getEtag());
+
+		assertThat(unchanged.isNotModified()).isTrue();
+		assertThat(changed.getBaseEtag()).isEqualTo(first.getEtag());
+		assertThat(changed.getItems()).containsExactly(next.get(0));
+	}
+
+	@Test
+	void reportsNotModifiedAfterEviction() {
+		properties.setBulkDigestCapacity(1);
+		BulkResultDigestStore small = new BulkResultDigestStore(properties);
+		BulkResultDigestStore.Delta first = small.record(items, results(SslExpiryStatus.OK, 30), null);
+		List<BulkSslExpiryRequestItem> otherItems = List.of(item("erp.c.co.ke"));
+		small.record(otherItems, results(otherItems, SslExpiryStatus.OK, 30), null);
+
+		BulkResultDigestStore.Delta unchanged = small.record(items, results(SslExpiryStatus.OK, 30), first.getEtag());
+		small.record(otherItems, results(otherItems, SslExpiryStatus.OK, 30), null);
+		BulkResultDigestStore.Delta changed = small.record(items, results(SslExpiryStatus.ERROR, 30), first.getEtag());
+
+		assertThat(unchanged.isNotModified()).isTrue();
+		assertThat(changed.getBaseEtag()).isNull();
+		assertThat(changed.getItems()).hasSize(2);
+	}
+
+	@Test
+	void reportsNotModifiedWhenOnlyDaysRemainingMoved() {
+		BulkResultDigestStore.Delta first = store.record(items, results(SslExpiryStatus.OK, 30), null);
+		BulkResultDigestStore.Delta second = store.record(items, results(SslExpiryStatus.OK, 29), first.getEtag());
+
+		assertThat(second.isNotModified()).isTrue();
+		assertThat(second.getItems()).isEmpty();
+	}
+
+	@Test
+	void returnsOnlyChangedItems() {
+		BulkResultDigestStore.Delta first = store.record(items, results(SslExpiryStatus.OK, 30), null);
+		List<BulkSslExpiryResponseItem> next = results(SslExpiryStatus.OK, 30);
+		next.get(1).getResult().setStatus(SslExpiryStatus.ERROR);
+		next.get(1).getResult().setExpiresAt(null);
+
+		// Weak comparison also accepts the token without its W/ prefix.
+		BulkResultDigestStore.Delta second = store.record(items, next, first.getEtag().substring(2));
+
+		assertThat(second.isNotModified()).isFalse();
+		assertThat(second.getEtag()).isNotEqualTo(first.getEtag());
+		assertThat(second.getBaseEtag()).isEqualTo(first.getEtag());
+		assertThat(second.getItems()).containsExactly(next.get(1));
+	}
+
+	@Test
+	void separatesInventories() {
+		BulkResultDigestStore.Delta first = store.record(items, results(SslExpiryStatus.OK, 30), null);
+		List<BulkSslExpiryRequestItem> otherItems = List.of(item("erp.a.co.ke"), item("erp.c.co.ke"));
+		BulkResultDigestStore.Delta other = store.record(otherItems, results(otherItems, SslExpiryStatus.OK, 30),
+				first.getEtag());
+
+		assertThat(other.getBaseEtag()).isNull();
+		assertThat(other.getEtag()).isNotEqualTo(first.getEtag());
+	}
+
+	private List<BulkSslExpiryResponseItem> results(SslExpiryStatus status, int daysRemaining) {
+		return results(items, status, daysRemaining);
+	}
+
+	private static List<BulkSslExpiryResponseItem> results(List<BulkSslExpiryRequestItem> items,
+			SslExpiryStatus status, int daysRemaining) {
+		return items.stream().map(item -> {
+			SslExpiryResponse response = new SslExpiryResponse();
+			response.setHost(item.getClientDomain());
+			response.setPort(443);
+			response.setStatus(status);
+			response.setExpiresAt(EXPIRES_AT);
+			response.setDaysRemaining(daysRemaining);
+			response.setChainTrusted(Boolean.TRUE);
+			return new BulkSslExpiryResponseItem(item, response);
+		}).collect(Collectors.toList());
+	}
+
+	private static BulkSslExpiryRequestItem item(String domain) {
+		BulkSslExpiryRequestItem item = new BulkSslExpiryRequestItem();
+		item.setClientName(domain.toUpperCase());
+		item.setClientDomain(domain);
+		return item;
+	}
+}
@@ -0,0 +1,70 @@
+package com.spa_limited.domain_ssl_checker.service;
+
+import com.spa_limited.domain_ssl_checker.config.SslNotificationProperties;
+import com.spa_limited.domain_ssl_checker.model.SslExpiryResponse;
+import com.spa_limited.domain_ssl_checker.model.SslExpiryStatus;
+import com.spa_limited.domain_ssl_checker.model.SslStatusTransition;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class StatusTransitionDetectorTests {
+
+	@Test
+	void reportsOnlyChangesAfterBaseline() {
+		StatusTransitionDetector detector = new StatusTransitionDetector(new SslNotificationProperties());
+
+		assertThat(detector.detect(null, response("erp.a.co.ke", SslExpiryStatus.OK))).isNull();
+		assertThat(detector.detect(null, response("erp.a.co.ke", SslExpiryStatus.OK))).isNull();
+		SslStatusTransition transition = detector.detect(null, response("ERP.A.co.ke", SslExpiryStatus.EXPIRED));
+
+		assertThat(transition).isNotNull();
+		assertThat(transition.getPreviousStatus()).isEqualTo(SslExpiryStatus.OK);
+		assertThat(transition.getStatus()).isEqualTo(SslExpiryStatus.EXPIRED);
+	}
+
+	@Test
+	void tracksEachClientIpSeparately() {
+		StatusTransitionDetector detector = new StatusTransitionDetector(new SslNotificationProperties());
+
+		detector.detect(null, response("erp.a.co.ke", SslExpiryStatus.OK));
+		assertThat(detector.detect("102.217.125.27", response("erp.a.co.ke", SslExpiryStatus.ERROR))).isNull();
+		assertThat(detector.detect(null, response("erp.a.co.ke", SslExpiryStatus.OK))).isNull();
+	}
+
+	@Test
+	void revertedTransitionIsReportedAgain() {
+		StatusTransitionDetector detector = new StatusTransitionDetector(new SslNotificationProperties());
+
+		detector.detect(null, response("erp.a.co.ke", SslExpiryStatus.OK));
+		detector.revert(detector.detect(null, response("erp.a.co.ke", SslExpiryStatus.ERROR)));
+		SslStatusTransition again = detector.detect(null, response("erp.a.co.ke", SslExpiryStatus.ERROR));
+
+		assertThat(again).isNotNull();
+		assertThat(again.getPreviousStatus()).isEqualTo(SslExpiryStatus.OK);
+	}
+
+	@Test
+	void evictedEndpointStartsFromNewBaseline() {
+		SslNotificationProperties properties = new SslNotificationProperties();
+		properties.setMaxTrackedEndpoints(2);
+		StatusTransitionDetector detector = new StatusTransitionDetector(properties);
+
+		detector.detect(null, response("erp.a.co.ke", SslExpiryStatus.OK));
+		detector.detect(null, response("erp.b.co.ke", SslExpiryStatus.OK));
+		// Touching A makes B the least recently checked, so C evicts B.
+		detector.detect(null, response("erp.a.co.ke", SslExpiryStatus.OK));
+		detector.detect(null, response("erp.c.co.ke", SslExpiryStatus.OK));
+
+		assertThat(detector.detect(null, response("erp.b.co.ke", SslExpiryStatus.EXPIRED))).isNull();
+		assertThat(detector.detect(null, response("erp.c.co.ke", SslExpiryStatus.EXPIRED))).isNotNull();
+	}
+
+	private static SslExpiryResponse response(String host, SslExpiryStatus status) {
+		SslExpiryResponse response = new SslExpiryResponse();
+		response.setHost(host);
+		response.setPort(443);
+		response.setStatus(status);
+		return response;
+	}
+}